@@ -60,17 +60,16 @@ public class NumericFieldMaskUtil {
 	public static FieldMask toFieldMask(Descriptors.Descriptor protoDescriptor, final NumericFieldMask mask) throws InvalidFieldMaskException {
 		CacheKey cacheKey = new CacheKey(protoDescriptor.getFullName(), mask);
 		if (!maskCache.containsKey(cacheKey)) {
-			verifySyntax(mask);
+			List<List<Integer>> paths = toNumericPaths(mask);
 
 			FieldMask.Builder fieldMask = FieldMask.newBuilder();
-			NumericFieldMask maskToUse = mask;
 			if (mask.getInvertMask()) {
-				maskToUse = invertMask(protoDescriptor, mask);
+				paths = invertPaths(protoDescriptor, paths);
 			}
 
-			// Convert numbered field paths ie "1.2" to field names
-			for (String path : maskToUse.getFieldNumberPathList()) {
-				fieldMask.addPaths(resolveNumericPath(null, path, protoDescriptor));
+			// Convert numbered field paths ie [1, 2] to field names
+			for (List<Integer> path : paths) {
+				fieldMask.addPaths(resolveNumericPath(path, protoDescriptor));
 			}
 
 			// Remove redundant fields etc
@@ -87,20 +86,43 @@ public class NumericFieldMaskUtil {
 
 	}
 
-	private static void verifySyntax(NumericFieldMask mask) throws InvalidFieldMaskException {
+	/**
+	 * Collect all paths in a mask as lists of field numbers, verifying syntax along the way
+	 */
+	private static List<List<Integer>> toNumericPaths(NumericFieldMask mask) throws InvalidFieldMaskException {
+		List<List<Integer>> paths = new ArrayList<>();
 		for (String path : mask.getFieldNumberPathList()) {
-			String[] segments = path.split(PATH_SEPARATOR_REGEX);
-			if (segments.length == 0) {
-				throw new InvalidFieldMaskException(String.format("Path '%s' is invalid. Pattern should be <number>[<dot><number>].. ie '1.2'", path));
+			paths.add(parseNumericPath(path));
+		}
+		paths.addAll(decodePackedPaths(mask.getPackedFieldNumberPathsList()));
+		return paths;
+	}
+
+	private static List<Integer> parseNumericPath(String path) throws InvalidFieldMaskException {
+		String[] segments = path.split(PATH_SEPARATOR_REGEX, -1);
+		List<Integer> fieldNumbers = new ArrayList<>(segments.length);
+		for (String segment : segments) {
+			try {
+				fieldNumbers.add(Integer.parseInt(segment));
+			} catch (NumberFormatException e) {
+				throw new InvalidFieldMaskException(String.format("Segment '%s' in path '%s' is not a number", segment, path));
 			}
-			for (String segment : segments) {
-				try {
-					Integer.parseInt(segment);
-				} catch (NumberFormatException e) {
-					throw new InvalidFieldMaskException(String.format("Segment '%s' in path '%s' is not a number", segment, path));
-				}
+		}
+		return fieldNumbers;
+	}
+
+	private static List<List<Integer>> decodePackedPaths(List<Integer> packedPaths) throws InvalidFieldMaskException {
+		List<List<Integer>> paths = new ArrayList<>();
+		int index = 0;
+		while (index < packedPaths.size()) {
+			int length = packedPaths.get(index++);
+			if (length < 1 || length > packedPaths.size() - index) {
+				throw new InvalidFieldMaskException(String.format("Packed path at index %d has invalid length %d", index - 1, length));
 			}
+			paths.add(packedPaths.subList(index, index + length));
+			index += length;
 		}
+		return paths;
 	}
 
 	/**
@@ -132,49 +154,39 @@ public class NumericFieldMaskUtil {
 	}
 
 	/**
-	 * Invert a field mask
+	 * Invert a list of field paths
 	 *
 	 * @param messageDescriptor root message descriptor
-	 * @param mask              mask that is to be inverted
-	 * @return a field mask listing all fields except the ones specified in the input mask
+	 * @param paths             paths that are to be inverted
+	 * @return paths to all fields except the ones specified in the input paths
 	 */
-	private static NumericFieldMask invertMask(Descriptors.Descriptor messageDescriptor, NumericFieldMask mask) {
-		NumericFieldMask.Builder invertedMask = NumericFieldMask.newBuilder();
-		if (mask.getFieldNumberPathCount() == 0) {
+	private static List<List<Integer>> invertPaths(Descriptors.Descriptor messageDescriptor, List<List<Integer>> paths) {
+		if (paths.isEmpty()) {
 			// Simple inverted mask, include all fields
-			invertedMask.addAllFieldNumberPath(messageDescriptor.getFields().stream().map(e -> String.valueOf(e.getNumber())).collect(Collectors.toList()));
+			return messageDescriptor.getFields().stream().map(e -> List.of(e.getNumber())).collect(Collectors.toList());
 		} else {
-			Tree<Integer> maskTree = buildMaskTree(mask);
+			Tree<Integer> maskTree = buildMaskTree(paths);
 			Tree<Integer> messageTree = buildMessageTree(messageDescriptor, maskTree.getMaxDept());
 			Tree<Integer> invertedTree = messageTree.subtract(maskTree);
-			return invertedTree.toMask();
+			return invertedTree.toPaths();
 		}
-
-		return invertedMask.build();
-
 	}
 
-	private static String resolveNumericPath(String parentPath, String subPath, Descriptors.Descriptor messageDescriptor) throws InvalidFieldMaskException {
-		if (subPath.contains(PATH_SEPARATOR)) {
-			String[] segments = subPath.split(PATH_SEPARATOR_REGEX);
-			String parent = segments[0];
-			String sub = subPath.substring(subPath.indexOf(PATH_SEPARATOR) + 1);
-			Descriptors.FieldDescriptor fieldDescriptor = messageDescriptor.findFieldByNumber(Integer.valueOf(parent));
-			if (fieldDescriptor == null) {
-				throw new InvalidFieldMaskException(String.format("Field number %s does not exist in message %s", parent, messageDescriptor.getFullName()));
-			}
-			if (fieldDescriptor.getType() == Descriptors.FieldDescriptor.Type.MESSAGE) {
-				Descriptors.Descriptor subMessageDescriptor = fieldDescriptor.getMessageType();
-				String newParentPath = buildNestedPath(parentPath, parent);
-				return buildNestedPath(toFieldName(messageDescriptor, Integer.parseInt(parent)), resolveNumericPath(newParentPath, sub, subMessageDescriptor));
-			} else {
-				throw new InvalidFieldMaskException(String.format("Field number %s/%s in %s does not have any child field path %s", parent,
-						fieldDescriptor.getName(), messageDescriptor.getFullName(), sub));
-			}
-		} else {
-			return buildNestedPath(toFieldName(messageDescriptor, Integer.parseInt(subPath)));
+	private static String resolveNumericPath(List<Integer> path, Descriptors.Descriptor messageDescriptor) throws InvalidFieldMaskException {
+		int fieldNumber = path.get(0);
+		String fieldName = toFieldName(messageDescriptor, fieldNumber);
+		if (path.size() == 1) {
+			return fieldName;
 		}
 
+		List<Integer> subPath = path.subList(1, path.size());
+		Descriptors.FieldDescriptor fieldDescriptor = messageDescriptor.findFieldByNumber(fieldNumber);
+		if (fieldDescriptor.getType() == Descriptors.FieldDescriptor.Type.MESSAGE) {
+			return buildNestedPath(fieldName, resolveNumericPath(subPath, fieldDescriptor.getMessageType()));
+		} else {
+			throw new InvalidFieldMaskException(String.format("Field number %d/%s in %s does not have any child field path %s", fieldNumber,
+					fieldDescriptor.getName(), messageDescriptor.getFullName(), buildNestedPath(subPath)));
+		}
 	}
 
 	/**
@@ -208,7 +220,38 @@ public class NumericFieldMaskUtil {
 	 * @return
 	 */
 	public static boolean isAllFields(NumericFieldMask mask) {
-		return mask.getInvertMask() && mask.getFieldNumberPathCount() == 0;
+		return mask.getInvertMask() && mask.getFieldNumberPathCount() == 0 && mask.getPackedFieldNumberPathsCount() == 0;
+	}
+
+	/**
+	 * Convert all paths in a mask to the packed representation (ie "1.2" -> [2, 1, 2]). Paths already packed are kept as is
+	 *
+	 * @param mask mask to convert
+	 * @return a mask with the same paths and invert flag, using only packed_field_number_paths
+	 * @throws InvalidFieldMaskException if any path has invalid syntax
+	 */
+	public static NumericFieldMask toPackedMask(NumericFieldMask mask) throws InvalidFieldMaskException {
+		NumericFieldMask.Builder packedMask = NumericFieldMask.newBuilder().setInvertMask(mask.getInvertMask());
+		for (List<Integer> path : toNumericPaths(mask)) {
+			packedMask.addPackedFieldNumberPaths(path.size());
+			packedMask.addAllPackedFieldNumberPaths(path);
+		}
+		return packedMask.build();
+	}
+
+	/**
+	 * Convert all paths in a mask to the string representation (ie [2, 1, 2] -> "1.2"). Paths already in string form are kept as is
+	 *
+	 * @param mask mask to convert
+	 * @return a mask with the same paths and invert flag, using only field_number_path
+	 * @throws InvalidFieldMaskException if any path has invalid syntax
+	 */
+	public static NumericFieldMask toStringMask(NumericFieldMask mask) throws InvalidFieldMaskException {
+		NumericFieldMask.Builder stringMask = NumericFieldMask.newBuilder().setInvertMask(mask.getInvertMask());
+		for (List<Integer> path : toNumericPaths(mask)) {
+			stringMask.addFieldNumberPath(buildNestedPath(path));
+		}
+		return stringMask.build();
 	}
 
 	private static String toFieldName(Descriptors.Descriptor protoDescriptor, int fieldNumber) throws InvalidFieldMaskException {
@@ -230,18 +273,35 @@ public class NumericFieldMaskUtil {
 		return Arrays.stream(segments).mapToObj(i -> ((Integer) i).toString()).collect(Collectors.joining(PATH_SEPARATOR));
 	}
 
+	/**
+	 * Builds a packed numeric field path by listing nested fields
+	 *
+	 * @param segments field numbers for full path, ie parent,child,grandchild as 1,2,3)
+	 * @return a packed numeric field path in the form [3, 1, 2, 3], to be added with addAllPackedFieldNumberPaths
+	 */
+	public static List<Integer> buildPackedNestedPath(int... segments) {
+		List<Integer> packedPath = new ArrayList<>(segments.length + 1);
+		packedPath.add(segments.length);
+		Arrays.stream(segments).forEach(packedPath::add);
+		return packedPath;
+	}
+
 	private static String buildNestedPath(String... segments) {
 		return Stream.of(segments).filter(Objects::nonNull).collect(Collectors.joining(PATH_SEPARATOR));
 	}
 
-	static Tree<Integer> buildMaskTree(NumericFieldMask mask) {
+	private static String buildNestedPath(List<?> segments) {
+		return segments.stream().map(String::valueOf).collect(Collectors.joining(PATH_SEPARATOR));
+	}
 
-		Tree<Integer> fieldTree = new Tree<>(-1);
-		List<String> fieldNumberPathList = mask.getFieldNumberPathList();
-		for (String path : fieldNumberPathList) {
-			String[] elements = path.split(PATH_SEPARATOR_REGEX);
+	static Tree<Integer> buildMaskTree(NumericFieldMask mask) throws InvalidFieldMaskException {
+		return buildMaskTree(toNumericPaths(mask));
+	}
 
-			fieldTree.rootNode.addChildPath(Arrays.stream(elements).mapToInt(Integer::parseInt).boxed().collect(Collectors.toList()));
+	static Tree<Integer> buildMaskTree(List<List<Integer>> paths) {
+		Tree<Integer> fieldTree = new Tree<>(-1);
+		for (List<Integer> path : paths) {
+			fieldTree.rootNode.addChildPath(path);
 		}
 
 		return fieldTree;
@@ -307,21 +367,31 @@ public class NumericFieldMaskUtil {
 
 		public NumericFieldMask toMask() {
 			NumericFieldMask.Builder maskBuilder = NumericFieldMask.newBuilder();
+			for (List<T> path : toPaths()) {
+				maskBuilder.addFieldNumberPath(buildNestedPath(path));
+			}
+
+			return maskBuilder.build();
+		}
+
+		public List<List<T>> toPaths() {
+			List<List<T>> paths = new ArrayList<>();
 			for (Node<T> child : rootNode.children) {
 				// Start by list of children as root node has no meaning
-				buildPath(null, child, maskBuilder);
+				buildPath(new ArrayList<>(), child, paths);
 			}
 
-			return maskBuilder.build();
+			return paths;
 		}
 
-		private void buildPath(String parentPath, Node<T> node, NumericFieldMask.Builder mask) {
+		private void buildPath(List<T> parentPath, Node<T> node, List<List<T>> paths) {
+			List<T> path = new ArrayList<>(parentPath);
+			path.add(node.value);
 			if (node.children.isEmpty()) {
-				mask.addFieldNumberPath(buildNestedPath(parentPath, node.value + ""));
+				paths.add(path);
 			} else {
 				for (Node<T> child : node.children) {
-					String path = buildNestedPath(parentPath, node.value + "");
-					buildPath(path, child, mask); // Recurse further into structure
+					buildPath(path, child, paths); // Recurse further into structure
 				}
 			}
 
@@ -82,6 +82,53 @@ class NumericFieldMaskUtilTest {
 		assertContainsExact(sourceContextSubFieldInverted, "edition", "fields", "name", "oneofs", "syntax");
 	}
 
+	@Test
+	void testToFieldMaskPacked() throws InvalidFieldMaskException {
+		FieldMask sourceContextSubField = NumericFieldMaskUtil.toFieldMask(com.google.protobuf.Type.getDescriptor(),
+				NumericFieldMask.newBuilder().addAllPackedFieldNumberPaths(NumericFieldMaskUtil.buildPackedNestedPath(5, 1)).build());
+		assertTrue(FieldMaskUtil.isValid(com.google.protobuf.Type.getDescriptor(), sourceContextSubField));
+		assertContainsExact(sourceContextSubField, "source_context.file_name");
+
+		FieldMask mixedInverted = NumericFieldMaskUtil.toFieldMask(com.google.protobuf.Type.getDescriptor(),
+				NumericFieldMask.newBuilder()
+						.addFieldNumberPath("5.1")
+						.addAllPackedFieldNumberPaths(NumericFieldMaskUtil.buildPackedNestedPath(4, 1))
+						.addAllPackedFieldNumberPaths(NumericFieldMaskUtil.buildPackedNestedPath(4, 2))
+						.setInvertMask(true)
+						.build());
+		assertContainsExact(mixedInverted, "edition", "fields", "name", "oneofs", "syntax");
+	}
+
+	@Test
+	void testConvertBetweenStringAndPacked() throws InvalidFieldMaskException {
+		NumericFieldMask stringMask = NumericFieldMask.newBuilder().addFieldNumberPath("1").addFieldNumberPath("5.1").setInvertMask(true).build();
+
+		NumericFieldMask packedMask = NumericFieldMaskUtil.toPackedMask(stringMask);
+		assertEquals(0, packedMask.getFieldNumberPathCount());
+		assertEquals(List.of(1, 1, 2, 5, 1), packedMask.getPackedFieldNumberPathsList());
+		assertTrue(packedMask.getInvertMask());
+
+		assertEquals(stringMask, NumericFieldMaskUtil.toStringMask(packedMask));
+	}
+
+	@Test
+	void testPackedMaskIsSmallerThanStringMask() throws InvalidFieldMaskException {
+		NumericFieldMask stringMask = NumericFieldMask.newBuilder()
+				.addFieldNumberPath("1")
+				.addFieldNumberPath("2")
+				.addFieldNumberPath("3")
+				.addFieldNumberPath("4.1")
+				.addFieldNumberPath("4.2")
+				.addFieldNumberPath("5.1")
+				.addFieldNumberPath("6")
+				.addFieldNumberPath("12.3.1")
+				.build();
+
+		NumericFieldMask packedMask = NumericFieldMaskUtil.toPackedMask(stringMask);
+		assertTrue(packedMask.getSerializedSize() < stringMask.getSerializedSize(),
+				"packed=" + packedMask.getSerializedSize() + ", string=" + stringMask.getSerializedSize());
+	}
+
 	private void assertContainsExact(FieldMask allFields, String... paths) {
 		Arrays.sort(paths);
 		assertEquals(paths.length, allFields.getPathsList().size());
@@ -92,7 +139,7 @@ class NumericFieldMaskUtilTest {
 	}
 
 	@Test
-	void testParseMaskToTree() {
+	void testParseMaskToTree() throws InvalidFieldMaskException {
 
 		NumericFieldMask mask = NumericFieldMask.newBuilder()
 				.addFieldNumberPath("1")
@@ -114,6 +161,25 @@ class NumericFieldMaskUtilTest {
 
 	}
 
+	@Test
+	void testParseMixedMaskToTree() throws InvalidFieldMaskException {
+
+		NumericFieldMask mask = NumericFieldMask.newBuilder()
+				.addFieldNumberPath("5.1")
+				.addAllPackedFieldNumberPaths(NumericFieldMaskUtil.buildPackedNestedPath(5, 2))
+				.build();
+
+		NumericFieldMaskUtil.Tree<Integer> tree = NumericFieldMaskUtil.buildMaskTree(mask);
+
+		assertEquals(1, tree.getRootNode().getChildren().size());
+		assertEquals(5, tree.getRootNode().getChildren().get(0).getValue());
+		assertEquals(2, tree.getRootNode().getChildren().get(0).getChildren().size());
+		assertEquals(1, tree.getRootNode().getChildren().get(0).getChildren().get(0).getValue());
+		assertEquals(2, tree.getRootNode().getChildren().get(0).getChildren().get(1).getValue());
+		assertEquals(2, tree.getMaxDept());
+
+	}
+
 	@Test
 	void testParseMessageToTreeSingleLevel() {
 
@@ -177,6 +243,14 @@ class NumericFieldMaskUtilTest {
 				() -> NumericFieldMaskUtil.toFieldMask(Timestamp.getDescriptor(), NumericFieldMask.newBuilder().addFieldNumberPath("3").build()));
 		assertThrows(InvalidFieldMaskException.class,
 				() -> NumericFieldMaskUtil.toFieldMask(Type.getDescriptor(), NumericFieldMask.newBuilder().addFieldNumberPath("3.13").build()));
+		assertThrows(InvalidFieldMaskException.class,
+				() -> NumericFieldMaskUtil.toFieldMask(Timestamp.getDescriptor(),
+						NumericFieldMask.newBuilder().addAllPackedFieldNumberPaths(NumericFieldMaskUtil.buildPackedNestedPath(1, 1)).build()));
+		assertThrows(InvalidFieldMaskException.class,
+				() -> NumericFieldMaskUtil.toFieldMask(Timestamp.getDescriptor(),
+						NumericFieldMask.newBuilder().addAllPackedFieldNumberPaths(NumericFieldMaskUtil.buildPackedNestedPath()).build()));
+		assertThrows(InvalidFieldMaskException.class,
+				() -> NumericFieldMaskUtil.toFieldMask(Timestamp.getDescriptor(), NumericFieldMask.newBuilder().addAllPackedFieldNumberPaths(List.of(3, 1)).build()));
 	}
 
 	@Test
@@ -191,5 +265,9 @@ class NumericFieldMaskUtilTest {
 				() -> NumericFieldMaskUtil.toFieldMask(Timestamp.getDescriptor(), NumericFieldMask.newBuilder().addFieldNumberPath("1.").build()));
 		assertThrows(InvalidFieldMaskException.class,
 				() -> NumericFieldMaskUtil.toFieldMask(Timestamp.getDescriptor(), NumericFieldMask.newBuilder().addFieldNumberPath("1..").build()));
+		assertThrows(InvalidFieldMaskException.class,
+				() -> NumericFieldMaskUtil.toFieldMask(Type.getDescriptor(), NumericFieldMask.newBuilder().addFieldNumberPath("5.").build()));
+		assertThrows(InvalidFieldMaskException.class,
+				() -> NumericFieldMaskUtil.toFieldMask(Type.getDescriptor(), NumericFieldMask.newBuilder().addFieldNumberPath(".").build()));
 	}
 }